@@ -0,0 +1,100 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 빠른 기동용 대량 데이터 적재 (fast 프로필)
+ *
+ * TestDataInit 처럼 @PostConstruct 에서 한건씩 저장하면 적재가 끝날 때 까지 컨텍스트 기동이 막힌다.
+ * 여기서는 웹 계층이 뜬 뒤(ApplicationReadyEvent) 별도 스레드에서 바이너리 시드 파일을 chunk 단위로 loadAll 한다.
+ * 요청은 바로 받지만, 적재가 끝날 때 까지 Readiness 상태는 REFUSING_TRAFFIC 으로 보고한다. (SeedAwareApplicationAvailability)
+ */
+@Slf4j
+@Component
+@Profile("fast")
+@RequiredArgsConstructor
+public class BulkDataInit {
+
+    private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${itemservice.seed.file}")
+    private Path seedFile;
+    @Value("${itemservice.seed.count:1000000}")
+    private int seedCount;
+    @Value("${itemservice.seed.chunk-size:10000}")
+    private int chunkSize;
+
+    @Getter
+    private volatile boolean loaded;
+    @Getter
+    private volatile int totalCount = -1;
+    @Getter
+    private volatile long loadMillis = -1;
+    /**
+     * 적재 실패 원인 - 실패하면 Readiness 는 REFUSING_TRAFFIC 으로 남는다.
+     */
+    @Getter
+    private volatile String failure;
+    private final AtomicInteger loadedCount = new AtomicInteger();
+
+    public int getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoading() {
+        Thread loader = new Thread(this::load, "seed-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * 시드 파일을 적재한다. (seed-loader 스레드, 테스트에서는 직접 호출)
+     */
+    void load() {
+        long start = System.nanoTime();
+        try {
+            if (Files.notExists(seedFile)) {
+                log.info("시드 파일이 없어 생성합니다. file={}, count={}", seedFile, seedCount);
+                ItemSeedFile.generate(seedFile, seedCount);
+            }
+            totalCount = ItemSeedFile.count(seedFile);
+            ItemSeedFile.read(seedFile, chunkSize, chunk -> {
+                itemRepository.loadAll(chunk);
+                loadedCount.addAndGet(chunk.size());
+            });
+            loadMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("시드 데이터 적재 완료. count={}, elapsed={}ms", loadedCount.get(), loadMillis);
+            markLoaded();
+        } catch (IOException | RuntimeException e) {
+            // 저장소 예외(ex. FileItemRepository 의 UncheckedIOException)도 여기서 남기지 않으면 스레드와 함께 사라진다.
+            log.error("시드 데이터 적재 실패. file={}, loadedCount={}", seedFile, loadedCount.get(), e);
+            failure = e.toString();
+        }
+    }
+
+    /**
+     * loaded 를 먼저 세운 뒤 발행하므로 SeedAwareApplicationAvailability 는 이 이벤트를 그대로 받아들인다.
+     */
+    private void markLoaded() {
+        loaded = true;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}
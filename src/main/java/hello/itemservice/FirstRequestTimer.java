@@ -0,0 +1,45 @@
+package hello.itemservice;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * JVM 시작부터 첫 요청 응답 완료까지의 시간(time-to-first-request)을 측정한다. (fast 프로필)
+ */
+@Slf4j
+@Component
+@Profile("fast")
+public class FirstRequestTimer extends OncePerRequestFilter {
+
+    private volatile long timeToFirstRequestMillis = -1;
+
+    public long getTimeToFirstRequestMillis() {
+        return timeToFirstRequestMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+        if (timeToFirstRequestMillis < 0) {
+            record(request.getRequestURI());
+        }
+    }
+
+    private synchronized void record(String uri) {
+        if (timeToFirstRequestMillis < 0) {
+            long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+            timeToFirstRequestMillis = System.currentTimeMillis() - jvmStart;
+            log.info("time-to-first-request={}ms, uri={}", timeToFirstRequestMillis, uri);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.CachingItemRepository;
+import hello.itemservice.domain.item.DelayedItemRepository;
+import hello.itemservice.domain.item.FileItemRepository;
+import hello.itemservice.domain.item.ItemCacheStats;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemStatistics;
+import hello.itemservice.domain.item.ItemWriteBatcher;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import hello.itemservice.domain.item.ProfilingItemRepository;
+import hello.itemservice.domain.item.StatisticsItemRepository;
+import hello.itemservice.profile.RequestProfiler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * ItemRepository 구성
+ *
+ * [백엔드] -> 통계 -> (지연시간 흉내) -> (near-cache) -> (프로파일링) 순서로 감싼다.
+ * itemservice.repository.backend : memory(기본) | file
+ *   file 은 기존 데이터가 남아있으면 기동 시 StatisticsItemRepository 가 모든 파일을 읽어 통계를 채운다.
+ *   (파일 수에 비례해 기동이 느려지고, 빈 컨텍스트에서 BulkDataInit 의 loadAll 로 적재하는 경우에는 증분 반영되므로 비용이 없다)
+ * itemservice.repository.latency : 0 보다 크면 DelayedItemRepository 로 감싼다.
+ * itemservice.cache.enabled : true 이면 CachingItemRepository 로 감싼다.
+ * itemservice.profiling.enabled : true 이면 ProfilingItemRepository 로 감싼다.
+ * itemservice.batch.* : 상품 등록 쓰기 묶음 처리(ItemWriteBatcher) 설정
+ */
+@Slf4j
+@Configuration
+public class ItemRepositoryConfig {
+
+    @Bean
+    public ItemCacheStats itemCacheStats() {
+        return new ItemCacheStats();
+    }
+
+    @Bean
+    public ItemStatistics itemStatistics() {
+        return new ItemStatistics();
+    }
+
+    @Bean
+    public ItemRepository itemRepository(
+            @Value("${itemservice.repository.backend:memory}") String backend,
+            @Value("${itemservice.repository.file.dir:${java.io.tmpdir}/item-store}") Path fileDir,
+            @Value("${itemservice.repository.latency:0ms}") Duration latency,
+            @Value("${itemservice.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${itemservice.cache.maximum-size:10000}") int cacheMaximumSize,
+            @Value("${itemservice.cache.expire-after-write:10m}") Duration cacheExpireAfterWrite,
+            ItemCacheStats itemCacheStats,
+            ItemStatistics itemStatistics,
+            RequestProfiler requestProfiler) {
+
+        ItemRepository repository;
+        switch (backend) {
+            case "memory":
+                repository = new MemoryItemRepository();
+                break;
+            case "file":
+                repository = new FileItemRepository(fileDir);
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 저장소입니다. backend=" + backend);
+        }
+        repository = new StatisticsItemRepository(repository, itemStatistics);
+        if (!latency.isZero()) {
+            repository = new DelayedItemRepository(repository, latency);
+        }
+        if (cacheEnabled) {
+            repository = new CachingItemRepository(repository, itemCacheStats, cacheMaximumSize, cacheExpireAfterWrite);
+        }
+        if (requestProfiler.isEnabled()) {
+            repository = new ProfilingItemRepository(repository, requestProfiler);
+        }
+        log.info("ItemRepository backend={}, latency={}, cache={}", backend, latency, cacheEnabled);
+        return repository;
+    }
+
+    /**
+     * max-size=1 이면 한건씩 저장하는 것과 같다.
+     */
+    @Bean
+    public ItemWriteBatcher itemWriteBatcher(
+            ItemRepository itemRepository,
+            @Value("${itemservice.batch.max-size:64}") int maxBatchSize,
+            @Value("${itemservice.batch.linger:300us}") Duration linger) {
+        return new ItemWriteBatcher(itemRepository, maxBatchSize, linger);
+    }
+}
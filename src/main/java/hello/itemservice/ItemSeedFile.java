@@ -0,0 +1,93 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.Item;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 대량 시드 데이터용 바이너리 파일
+ *
+ * 형식 : [MAGIC(int)][건수(int)] 다음에 건수 만큼 [itemName(UTF)][price(int)][quantity(int)] 반복
+ * 텍스트(CSV, JSON) 파싱 없이 DataInputStream 으로 순차 읽기만 하므로 100만건도 수초 내에 적재된다.
+ */
+public final class ItemSeedFile {
+
+    private static final int MAGIC = 0x49544D31; // "ITM1"
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private ItemSeedFile() {
+    }
+
+    /**
+     * count 건의 테스트용 상품을 생성해서 파일로 쓴다.
+     * 가격 * 수량이 ItemValidator 의 검증 범위 안에 들어오도록 만든다.
+     */
+    public static void generate(Path path, int count) throws IOException {
+        // 같은 디렉토리의 임시 파일에 다 쓴 뒤 교체한다. 도중에 죽어도 헤더만 100만건인 잘린 파일이 남지 않는다.
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(count);
+                for (int i = 0; i < count; i++) {
+                    out.writeUTF("item" + i);
+                    out.writeInt(1000 + (i % 1000) * 1000);
+                    out.writeInt(10 + i % 9990);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 파일을 읽어 chunkSize 단위로 consumer 에 넘긴다.
+     * @return 읽은 전체 건수
+     */
+    public static int read(Path path, int chunkSize, Consumer<List<Item>> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("시드 파일 형식이 아닙니다. path=" + path);
+            }
+            int count = in.readInt();
+            List<Item> chunk = new ArrayList<>(chunkSize);
+            for (int i = 0; i < count; i++) {
+                chunk.add(new Item(in.readUTF(), in.readInt(), in.readInt()));
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 파일 헤더의 건수만 읽는다.
+     */
+    public static int count(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("시드 파일 형식이 아닙니다. path=" + path);
+            }
+            return in.readInt();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package hello.itemservice;
 
+import hello.itemservice.web.StaticResourceCacheInterceptor;
 import hello.itemservice.web.validation.ItemValidator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @SpringBootApplication
@@ -17,4 +19,13 @@ public class ItemServiceApplication implements WebMvcConfigurer {
 	public Validator getValidator() {
 		return new ItemValidator();
 	}*/
+
+	/**
+	 * 리소스 핸들러 매핑에도 인터셉터가 적용되므로 /css/** 응답의 Cache-Control 을 여기서 정한다.
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new StaticResourceCacheInterceptor())
+				.addPathPatterns("/css/**");
+	}
 }
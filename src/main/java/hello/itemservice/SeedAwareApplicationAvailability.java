@@ -0,0 +1,58 @@
+package hello.itemservice;
+
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시드 적재가 끝나기 전에는 Readiness 를 REFUSING_TRAFFIC 으로 보고하는 ApplicationAvailability (fast 프로필)
+ *
+ * 스프링 부트는 기동 직후 ACCEPTING_TRAFFIC 을 한번 발행한다.
+ * 이벤트 리스너에서 REFUSING_TRAFFIC 을 다시 발행하는 방식은 리스너 순서에 따라 마지막 상태가 바뀌므로,
+ * 조회 시점에 BulkDataInit.isLoaded() 를 직접 확인한다.
+ * 이 빈이 있으면 부트의 기본 ApplicationAvailabilityBean 은 등록되지 않는다. (@ConditionalOnMissingBean)
+ */
+@Component
+@Profile("fast")
+public class SeedAwareApplicationAvailability extends ApplicationAvailabilityBean {
+
+    private final BulkDataInit bulkDataInit;
+
+    public SeedAwareApplicationAvailability(BulkDataInit bulkDataInit) {
+        this.bulkDataInit = bulkDataInit;
+    }
+
+    @Override
+    public <S extends AvailabilityState> S getState(Class<S> stateType, S defaultState) {
+        if (refusingUntilLoaded(stateType)) {
+            return stateType.cast(ReadinessState.REFUSING_TRAFFIC);
+        }
+        return super.getState(stateType, defaultState);
+    }
+
+    @Override
+    public <S extends AvailabilityState> S getState(Class<S> stateType) {
+        if (refusingUntilLoaded(stateType)) {
+            return stateType.cast(ReadinessState.REFUSING_TRAFFIC);
+        }
+        return super.getState(stateType);
+    }
+
+    /**
+     * 마지막 이벤트가 ACCEPTING_TRAFFIC 이라도 적재 전이면 상태 조회와 맞지 않으므로 숨긴다.
+     */
+    @Override
+    public <S extends AvailabilityState> AvailabilityChangeEvent<S> getLastChangeEvent(Class<S> stateType) {
+        if (refusingUntilLoaded(stateType)) {
+            return null;
+        }
+        return super.getLastChangeEvent(stateType);
+    }
+
+    private boolean refusingUntilLoaded(Class<?> stateType) {
+        return stateType == ReadinessState.class && !bulkDataInit.isLoaded();
+    }
+}
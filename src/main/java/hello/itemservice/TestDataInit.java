@@ -3,11 +3,13 @@ package hello.itemservice;
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 
 @Component
+@Profile("!fast") // fast 프로필에서는 BulkDataInit 이 대신 적재한다.
 @RequiredArgsConstructor
 public class TestDataInit {
 
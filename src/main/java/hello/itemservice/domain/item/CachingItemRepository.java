@@ -0,0 +1,308 @@
+package hello.itemservice.domain.item;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 느린 백엔드 앞에 두는 read-through near-cache
+ *
+ * 크기 제한 : W-TinyLFU 방식. 새 항목은 작은 window(LRU, 전체의 1%)에 들어가고,
+ *           window 에서 밀려난 후보는 main(LRU)의 희생자보다 접근 빈도(FrequencySketch)가 높을 때만 main 에 들어간다.
+ *           한번 스쳐가는 조회가 자주 쓰이는 항목을 밀어내지 못하게 한다.
+ * 동시성 : id 해시로 나눈 segment 마다 lock, window/main, sketch 를 따로 두어 서로 다른 segment 의 조회는 경합하지 않는다.
+ * 만료 : 저장 후 expireAfterWrite 가 지나면 다시 백엔드에서 읽는다.
+ * single-flight : 같은 id 에 대한 동시 miss 는 백엔드를 1번만 호출하고 나머지는 그 결과를 기다린다.
+ * 쓰기 : save, saveAll 은 write-through (loadAll 은 캐시에 넣지 않음), update 는 백엔드 반영 후 캐시에서 제거(invalidate)한다.
+ */
+public class CachingItemRepository implements ItemRepository {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final ItemRepository delegate;
+    private final ItemCacheStats stats;
+    private final long expireAfterWriteNanos;
+    private final Segment[] segments;
+    private final ConcurrentMap<Long, CompletableFuture<Item>> loading = new ConcurrentHashMap<>();
+
+    public CachingItemRepository(ItemRepository delegate, ItemCacheStats stats,
+                                 int maximumSize, Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.stats = stats;
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+
+        // segment 당 최소 8개는 담을 수 있도록 segment 수를 정한다. (2의 거듭제곱)
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / 8)));
+        int segmentMaximum = Math.max(1, (maximumSize + segmentCount - 1) / segmentCount);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentMaximum);
+        }
+    }
+
+    @Override
+    public Item save(Item item) {
+        Item savedItem = delegate.save(item);
+        segmentFor(savedItem.getId()).write(savedItem.getId(), savedItem);
+        return savedItem;
+    }
+
+    @Override
+    public void saveAll(Collection<Item> items) {
+        delegate.saveAll(items);
+        for (Item item : items) {
+            segmentFor(item.getId()).write(item.getId(), item);
+        }
+    }
+
+    /**
+     * 시드 적재 같은 대량 저장은 자주 쓰이는 항목을 밀어내지 않도록 캐시에 넣지 않는다.
+     * 이미 캐시에 있을 수 없는 새 id 만 할당되므로 invalidate 도 필요 없다.
+     */
+    @Override
+    public void loadAll(Collection<Item> items) {
+        delegate.loadAll(items);
+    }
+
+    @Override
+    public Item findById(Long id) {
+        Segment segment = segmentFor(id);
+        Item cached = segment.get(id, true);
+        if (cached != null) {
+            stats.recordHit();
+            return cached;
+        }
+        stats.recordMiss();
+
+        CompletableFuture<Item> future = new CompletableFuture<>();
+        CompletableFuture<Item> inFlight = loading.putIfAbsent(id, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            // miss 확인 후 putIfAbsent 사이에 다른 스레드가 로딩을 끝냈을 수 있으므로 다시 확인한다.
+            Item item = segment.get(id, false);
+            if (item == null) {
+                item = load(segment, id);
+            }
+            future.complete(item);
+            return item;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, future);
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        delegate.update(itemId, updateParam);
+        invalidate(itemId);
+    }
+
+    @Override
+    public void clearStore() {
+        delegate.clearStore();
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public void invalidate(Long id) {
+        segmentFor(id).invalidate(id);
+    }
+
+    private Item load(Segment segment, Long id) {
+        long generation = segment.generation();
+
+        long start = System.nanoTime();
+        Item item = delegate.findById(id);
+        stats.recordLoad(System.nanoTime() - start);
+
+        if (item != null) {
+            segment.putIfUnchanged(id, item, generation);
+        }
+        return item;
+    }
+
+    private Item await(CompletableFuture<Item> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Segment segmentFor(Long id) {
+        int hash = id.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int windowMaximum;
+        private final int mainMaximum;
+        private final LinkedHashMap<Long, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Long, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final FrequencySketch sketch;
+
+        /**
+         * 이 segment 에 쓰기가 일어날 때 마다 증가한다.
+         * 로딩 도중 같은 segment 에 쓰기가 끼어들었다면 읽어온 값이 이미 낡았을 수 있으므로 캐시에 넣지 않는다.
+         */
+        private long writeGeneration;
+
+        Segment(int maximumSize) {
+            this.windowMaximum = Math.max(1, maximumSize / 100);
+            this.mainMaximum = Math.max(1, maximumSize - windowMaximum);
+            this.sketch = new FrequencySketch(maximumSize);
+        }
+
+        /**
+         * @param recordAccess 접근 빈도를 기록할지 여부 (single-flight 재확인 때는 기록하지 않는다)
+         */
+        Item get(Long id, boolean recordAccess) {
+            lock.lock();
+            try {
+                if (recordAccess) {
+                    sketch.increment(id);
+                }
+                Entry entry = window.get(id);
+                if (entry == null) {
+                    entry = main.get(id);
+                }
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.isExpired(System.nanoTime())) {
+                    window.remove(id);
+                    main.remove(id);
+                    return null;
+                }
+                return entry.item;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long generation() {
+            lock.lock();
+            try {
+                return writeGeneration;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void write(Long id, Item item) {
+            lock.lock();
+            try {
+                writeGeneration++;
+                put(id, item);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void putIfUnchanged(Long id, Item item, long generation) {
+            lock.lock();
+            try {
+                if (generation == writeGeneration) {
+                    put(id, item);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void invalidate(Long id) {
+            lock.lock();
+            try {
+                writeGeneration++;
+                window.remove(id);
+                main.remove(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                writeGeneration++;
+                window.clear();
+                main.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * lock 을 잡은 상태에서 호출한다.
+         */
+        private void put(Long id, Item item) {
+            Entry entry = new Entry(item, System.nanoTime() + expireAfterWriteNanos);
+            if (main.containsKey(id)) {
+                main.put(id, entry);
+                return;
+            }
+            window.put(id, entry);
+            if (window.size() <= windowMaximum) {
+                return;
+            }
+
+            // window 에서 밀려난 후보를 main 에 넣을지 결정한다.
+            Iterator<Map.Entry<Long, Entry>> windowIterator = window.entrySet().iterator();
+            Map.Entry<Long, Entry> candidate = windowIterator.next();
+            windowIterator.remove();
+            if (main.size() < mainMaximum) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+
+            Iterator<Map.Entry<Long, Entry>> mainIterator = main.entrySet().iterator();
+            Map.Entry<Long, Entry> victim = mainIterator.next();
+            if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                mainIterator.remove();
+                main.put(candidate.getKey(), candidate.getValue());
+            }
+            stats.recordEviction();
+        }
+    }
+
+    private static class Entry {
+
+        private final Item item;
+        private final long expiresAt;
+
+        Entry(Item item, long expiresAt) {
+            this.item = item;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
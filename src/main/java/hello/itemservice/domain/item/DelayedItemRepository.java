@@ -0,0 +1,69 @@
+package hello.itemservice.domain.item;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 원격 저장소의 왕복 지연시간을 흉내내는 데코레이터
+ * 모든 호출마다 latency 만큼 대기한 뒤 delegate 를 호출한다. (saveAll 도 1회 왕복으로 본다)
+ */
+public class DelayedItemRepository implements ItemRepository {
+
+    private final ItemRepository delegate;
+    private final Duration latency;
+
+    public DelayedItemRepository(ItemRepository delegate, Duration latency) {
+        this.delegate = delegate;
+        this.latency = latency;
+    }
+
+    @Override
+    public Item save(Item item) {
+        delay();
+        return delegate.save(item);
+    }
+
+    @Override
+    public void saveAll(Collection<Item> items) {
+        delay();
+        delegate.saveAll(items);
+    }
+
+    @Override
+    public void loadAll(Collection<Item> items) {
+        delay();
+        delegate.loadAll(items);
+    }
+
+    @Override
+    public Item findById(Long id) {
+        delay();
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        delay();
+        return delegate.findAll();
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        delay();
+        delegate.update(itemId, updateParam);
+    }
+
+    @Override
+    public void clearStore() {
+        delegate.clearStore();
+    }
+
+    private void delay() {
+        try {
+            Thread.sleep(latency.toMillis(), latency.toNanosPart() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
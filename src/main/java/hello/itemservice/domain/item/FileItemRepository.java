@@ -0,0 +1,150 @@
+package hello.itemservice.domain.item;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 파일 저장소 - 원격 DB 대신 사용하는 느린 백엔드
+ *
+ * 상품 1건을 디렉토리 아래 {id}.item 파일 1개로 저장한다.
+ * 조회할 때 마다 파일을 읽어 새 Item 을 만들어 반환하므로, 조회 결과를 수정해도 저장소에는 반영되지 않는다.
+ */
+public class FileItemRepository implements ItemRepository {
+
+    private static final String SUFFIX = ".item";
+
+    private final Path directory;
+    private final AtomicLong sequence;
+
+    public FileItemRepository(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                long maxId = files.mapToLong(this::idOf).max().orElse(0L);
+                this.sequence = new AtomicLong(maxId);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Item save(Item item) {
+        item.setId(sequence.incrementAndGet());
+        write(item);
+        return item;
+    }
+
+    @Override
+    public void saveAll(Collection<Item> items) {
+        long id = sequence.getAndAdd(items.size());
+        for (Item item : items) {
+            item.setId(++id);
+            write(item);
+        }
+    }
+
+    @Override
+    public void loadAll(Collection<Item> items) {
+        saveAll(items);
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return read(pathOf(id));
+    }
+
+    @Override
+    public List<Item> findAll() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(this::isItemFile)
+                    .map(this::read)
+                    .filter(item -> item != null)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        Item findItem = findById(itemId);
+        findItem.setItemName(updateParam.getItemName());
+        findItem.setPrice(updateParam.getPrice());
+        findItem.setQuantity(updateParam.getQuantity());
+        write(findItem);
+    }
+
+    @Override
+    public void clearStore() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> itemFiles = files.filter(this::isItemFile).collect(Collectors.toList());
+            for (Path file : itemFiles) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로 동시에 읽는 쪽은 이전 값 또는 새 값 중 하나만 본다.
+     */
+    private void write(Item item) {
+        Path target = pathOf(item.getId());
+        try {
+            Path temp = Files.createTempFile(directory, item.getId() + "-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeLong(item.getId());
+                out.writeUTF(item.getItemName());
+                out.writeInt(item.getPrice());
+                out.writeInt(item.getQuantity());
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Item read(Path file) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            long id = in.readLong();
+            Item item = new Item(in.readUTF(), in.readInt(), in.readInt());
+            item.setId(id);
+            return item;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pathOf(Long id) {
+        return directory.resolve(id + SUFFIX);
+    }
+
+    private boolean isItemFile(Path file) {
+        return file.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    private long idOf(Path file) {
+        if (!isItemFile(file)) {
+            return 0L;
+        }
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
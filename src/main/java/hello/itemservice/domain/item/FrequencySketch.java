@@ -0,0 +1,71 @@
+package hello.itemservice.domain.item;
+
+/**
+ * TinyLFU 의 접근 빈도 추정용 Count-Min Sketch
+ *
+ * 키 마다 4개의 카운터(최대 15)를 두고 그 중 최소값을 빈도로 추정한다.
+ * 증가 횟수가 sampleSize 에 도달하면 모든 카운터를 절반으로 줄여(aging) 오래된 인기도를 잊게 한다.
+ * 스레드 안전하지 않다. CachingItemRepository 의 segment lock 안에서만 호출한다.
+ */
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0xb1dc6e05, 0x6b3b9b6d, 0x2c1b3c6d};
+
+    private final int[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+        this.table = new int[DEPTH * width];
+        this.mask = width - 1;
+        this.sampleSize = 10 * Math.max(1, maximumSize);
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = indexOf(hash, i);
+            if (table[index] < MAX_COUNT) {
+                table[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] >>>= 1;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+        h ^= h >>> 16;
+        return row * (mask + 1) + (h & mask);
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 17;
+        hash *= 0xed5ad4bb;
+        hash ^= hash >>> 11;
+        return hash;
+    }
+}
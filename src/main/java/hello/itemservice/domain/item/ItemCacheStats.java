@@ -0,0 +1,66 @@
+package hello.itemservice.domain.item;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CachingItemRepository 의 통계 (적중률, 백엔드 로딩 지연시간)
+ * near-cache 를 사용하지 않으면 모든 값이 0 으로 남는다.
+ */
+public class ItemCacheStats {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordLoad(long loadNanos) {
+        loadCount.increment();
+        totalLoadNanos.add(loadNanos);
+    }
+
+    void recordEviction() {
+        evictionCount.increment();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 조회가 한번도 없으면(유휴 또는 캐시 비활성화) 0.0 을 반환한다.
+     */
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long requests = hits + missCount.sum();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /**
+     * 실제로 백엔드를 호출한 횟수 - 같은 id 의 동시 miss 는 1회로 합쳐진다.
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public double getAverageLoadMillis() {
+        long loads = loadCount.sum();
+        return loads == 0 ? 0.0 : totalLoadNanos.sum() / 1_000_000.0 / loads;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
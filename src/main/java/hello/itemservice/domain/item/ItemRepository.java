@@ -1,41 +1,41 @@
 package hello.itemservice.domain.item;
 
-import org.springframework.stereotype.Repository;
-
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-
-@Repository
-public class ItemRepository {
-
-    private static final Map<Long, Item> store = new HashMap<>(); //static
-    private static long sequence = 0L; //static
-
-    public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
-        return item;
-    }
-
-    public Item findById(Long id) {
-        return store.get(id);
-    }
-
-    public List<Item> findAll() {
-        return new ArrayList<>(store.values());
-    }
-
-    public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
-    }
-
-    public void clearStore() {
-        store.clear();
-    }
 
+/**
+ * 상품 저장소
+ *
+ * 구현체는 ItemRepositoryConfig 에서 설정에 따라 선택되고 조립된다.
+ * 백엔드
+ * - MemoryItemRepository : 메모리 (기본)
+ * - FileItemRepository : 파일 - 원격 DB 대용의 느린 저장소
+ * 데코레이터 (안쪽부터)
+ * - StatisticsItemRepository : 저장/수정 때 마다 ItemStatistics 를 증분 갱신
+ * - DelayedItemRepository : 지연시간을 흉내
+ * - CachingItemRepository : 느린 백엔드 앞에 두는 near-cache
+ * - ProfilingItemRepository : 프로파일링 모드에서 호출 단계를 측정
+ */
+public interface ItemRepository {
+
+    Item save(Item item);
+
+    /**
+     * 대량 저장 - 저장된 각 item 에 id 가 채워진다.
+     */
+    void saveAll(Collection<Item> items);
+
+    /**
+     * 초기 적재용 대량 저장 (BulkDataInit) - saveAll 과 같이 id 가 채워지지만
+     * 캐시 같은 데코레이터는 이 경로로 들어온 item 을 담아두지 않는다.
+     */
+    void loadAll(Collection<Item> items);
+
+    Item findById(Long id);
+
+    List<Item> findAll();
+
+    void update(Long itemId, Item updateParam);
+
+    void clearStore();
 }
@@ -0,0 +1,110 @@
+package hello.itemservice.domain.item;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 통계 - 저장/수정 때 마다 증분 갱신하므로 조회는 상품 수와 무관하게 O(1) 이다.
+ *
+ * 건수, 재고 금액 합계(가격 * 수량), 가격대별 건수 : LongAdder (동시 갱신시 경합이 없도록 스트라이프 카운터 사용)
+ * 최소/최대 가격 : 가격별 건수를 ConcurrentSkipListMap 에 두고 첫번째/마지막 키를 읽는다.
+ *                수정으로 최저가 상품이 사라져도 정확한 값을 유지하기 위함이다.
+ */
+public class ItemStatistics {
+
+    /**
+     * 가격대 상한 (ItemValidator 의 가격 범위 1,000 ~ 1,000,000 기준)
+     */
+    private static final int[] PRICE_BAND_UPPER_BOUNDS = {10_000, 50_000, 100_000, 500_000};
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalStockValue = new LongAdder();
+    private final LongAdder[] priceBands = new LongAdder[PRICE_BAND_UPPER_BOUNDS.length + 1];
+    private final ConcurrentSkipListMap<Integer, Long> priceCounts = new ConcurrentSkipListMap<>();
+
+    public ItemStatistics() {
+        for (int i = 0; i < priceBands.length; i++) {
+            priceBands[i] = new LongAdder();
+        }
+    }
+
+    void add(Integer price, Integer quantity) {
+        record(price, quantity, 1);
+    }
+
+    void remove(Integer price, Integer quantity) {
+        record(price, quantity, -1);
+    }
+
+    void reset() {
+        count.reset();
+        totalStockValue.reset();
+        for (LongAdder band : priceBands) {
+            band.reset();
+        }
+        priceCounts.clear();
+    }
+
+    /**
+     * 수정 화면은 검증을 거치지 않으므로 가격, 수량이 null 일 수 있다. (null 은 합계에서 0 으로 본다)
+     */
+    private void record(Integer price, Integer quantity, int sign) {
+        count.add(sign);
+        if (price == null) {
+            return;
+        }
+        if (quantity != null) {
+            totalStockValue.add(sign * (long) price * quantity);
+        }
+        priceBands[bandOf(price)].add(sign);
+        if (sign > 0) {
+            priceCounts.merge(price, 1L, Long::sum);
+        } else {
+            // 없는 가격을 빼서 음수 건수가 남지 않도록 있는 경우에만 줄인다.
+            priceCounts.computeIfPresent(price, (key, current) -> current == 1 ? null : current - 1);
+        }
+    }
+
+    private static int bandOf(int price) {
+        for (int i = 0; i < PRICE_BAND_UPPER_BOUNDS.length; i++) {
+            if (price < PRICE_BAND_UPPER_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return PRICE_BAND_UPPER_BOUNDS.length;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalStockValue() {
+        return totalStockValue.sum();
+    }
+
+    public Integer getMinPrice() {
+        Map.Entry<Integer, Long> first = priceCounts.firstEntry();
+        return first == null ? null : first.getKey();
+    }
+
+    public Integer getMaxPrice() {
+        Map.Entry<Integer, Long> last = priceCounts.lastEntry();
+        return last == null ? null : last.getKey();
+    }
+
+    /**
+     * 가격대별 건수 - 키는 "하한~상한" (하한 이상, 상한 미만)
+     */
+    public Map<String, Long> getPriceBands() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        int lower = 0;
+        for (int i = 0; i < PRICE_BAND_UPPER_BOUNDS.length; i++) {
+            result.put(lower + "~" + PRICE_BAND_UPPER_BOUNDS[i], priceBands[i].sum());
+            lower = PRICE_BAND_UPPER_BOUNDS[i];
+        }
+        result.put(lower + "~", priceBands[PRICE_BAND_UPPER_BOUNDS.length].sum());
+        return result;
+    }
+}
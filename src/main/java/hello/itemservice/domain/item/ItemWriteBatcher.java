@@ -0,0 +1,207 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 등록 쓰기 묶음 처리 (micro-batching)
+ *
+ * 요청 스레드는 검증이 끝난 Item 을 큐에 넣고 결과를 기다린다.
+ * 전용 스레드가 첫 항목을 꺼낸 뒤 linger 시간 동안 또는 maxBatchSize 개가 모일 때 까지 더 모아서
+ * itemRepository.saveAll 로 한번에 저장하고, 각 요청에 할당된 id 가 채워진 Item 을 돌려준다.
+ * 요청이 몰릴수록 저장소 왕복 횟수가 줄어들고, 한가할 때는 최대 linger 만큼만 지연된다.
+ */
+@Slf4j
+public class ItemWriteBatcher implements AutoCloseable {
+
+    /**
+     * 저장 결과를 기다리는 최대 시간 - 저장소가 멈춰도 요청 스레드가 무한정 묶이지 않게 한다.
+     */
+    private static final Duration SAVE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ItemRepository itemRepository;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+    /**
+     * submit(큐 적재)은 read lock, close(종료 표시)는 write lock 으로 묶어
+     * 종료 표시 이후에는 어떤 요청도 큐에 들어가지 못하게 한다.
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder itemCount = new LongAdder();
+
+    public ItemWriteBatcher(ItemRepository itemRepository, int maxBatchSize, Duration linger) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize 는 1 이상이어야 합니다. maxBatchSize=" + maxBatchSize);
+        }
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("linger 는 음수일 수 없습니다. linger=" + linger);
+        }
+        this.itemRepository = itemRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.worker = new Thread(this::run, "item-write-batcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 묶음 저장이 끝날 때 까지(최대 SAVE_TIMEOUT) 기다린 뒤 id 가 채워진 item 을 반환한다.
+     */
+    public Item save(Item item) {
+        try {
+            return submit(item).get(SAVE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("상품 저장 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("상품 저장 대기시간 초과. timeout=" + SAVE_TIMEOUT, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 저장 대기 중 인터럽트", e);
+        }
+    }
+
+    public CompletableFuture<Item> submit(Item item) {
+        PendingWrite write = new PendingWrite(item);
+        closeLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("ItemWriteBatcher 가 종료되었습니다.");
+            }
+            queue.add(write);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        return write.result;
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getItemCount() {
+        return itemCount.sum();
+    }
+
+    public double getAverageBatchSize() {
+        long batches = batchCount.sum();
+        return batches == 0 ? 0.0 : (double) itemCount.sum() / batches;
+    }
+
+    /**
+     * 이미 들어온 요청은 모두 저장한 뒤 종료한다.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 인터럽트로 worker 를 끝까지 기다리지 못했다면 남은 요청은 실패로 돌려준다.
+        PendingWrite write;
+        while ((write = queue.poll()) != null) {
+            write.result.completeExceptionally(new IllegalStateException("ItemWriteBatcher 가 종료되었습니다."));
+        }
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                // 모으던 중이던 요청은 저장하지 않고 실패로 돌려준다. (큐에 남은 요청은 close 에서 정리)
+                Thread.currentThread().interrupt();
+                fail(batch, new IllegalStateException("ItemWriteBatcher 가 인터럽트되었습니다.", e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingWrite> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        List<Item> items = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            items.add(write.item);
+        }
+        try {
+            itemRepository.saveAll(items);
+            batchCount.increment();
+            itemCount.add(items.size());
+            for (PendingWrite write : batch) {
+                write.result.complete(write.item);
+            }
+        } catch (RuntimeException e) {
+            log.error("상품 묶음 저장 실패. size={}", items.size(), e);
+            fail(batch, e);
+        }
+    }
+
+    private void fail(List<PendingWrite> batch, RuntimeException e) {
+        for (PendingWrite write : batch) {
+            write.result.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final Item item;
+        private final CompletableFuture<Item> result = new CompletableFuture<>();
+
+        PendingWrite(Item item) {
+            this.item = item;
+        }
+    }
+}
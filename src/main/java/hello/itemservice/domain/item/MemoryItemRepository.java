@@ -0,0 +1,68 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 저장소 (기본 백엔드)
+ */
+public class MemoryItemRepository implements ItemRepository {
+
+    /**
+     * 백그라운드 대량 적재(BulkDataInit)와 웹 요청이 동시에 접근하므로 동시성 컬렉션을 사용한다.
+     */
+    private static final Map<Long, Item> store = new ConcurrentHashMap<>(); //static
+    private static final AtomicLong sequence = new AtomicLong(); //static
+
+    @Override
+    public Item save(Item item) {
+        item.setId(sequence.incrementAndGet());
+        store.put(item.getId(), item);
+        return item;
+    }
+
+    /**
+     * id 구간을 한번에 할당한 뒤 순서대로 저장한다.
+     */
+    @Override
+    public void saveAll(Collection<Item> items) {
+        long id = sequence.getAndAdd(items.size());
+        for (Item item : items) {
+            item.setId(++id);
+            store.put(item.getId(), item);
+        }
+    }
+
+    @Override
+    public void loadAll(Collection<Item> items) {
+        saveAll(items);
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return store.get(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return new ArrayList<>(store.values());
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        Item findItem = findById(itemId);
+        findItem.setItemName(updateParam.getItemName());
+        findItem.setPrice(updateParam.getPrice());
+        findItem.setQuantity(updateParam.getQuantity());
+    }
+
+    @Override
+    public void clearStore() {
+        store.clear();
+    }
+
+}
@@ -0,0 +1,69 @@
+package hello.itemservice.domain.item;
+
+import hello.itemservice.profile.ProfileStage;
+import hello.itemservice.profile.RequestProfiler;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 저장소 호출 1회를 REPOSITORY 단계로 재는 데코레이터 (프로파일링 모드에서 가장 바깥에 둔다)
+ * saveAll, loadAll 은 요청 스레드가 아닌 묶음 처리 스레드에서 호출되므로 BATCH_SAVE 단계로 따로 잰다.
+ */
+public class ProfilingItemRepository implements ItemRepository {
+
+    private final ItemRepository delegate;
+    private final RequestProfiler profiler;
+
+    public ProfilingItemRepository(ItemRepository delegate, RequestProfiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Item save(Item item) {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.REPOSITORY)) {
+            return delegate.save(item);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Item> items) {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.BATCH_SAVE)) {
+            delegate.saveAll(items);
+        }
+    }
+
+    @Override
+    public void loadAll(Collection<Item> items) {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.BATCH_SAVE)) {
+            delegate.loadAll(items);
+        }
+    }
+
+    @Override
+    public Item findById(Long id) {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.REPOSITORY)) {
+            return delegate.findById(id);
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.REPOSITORY)) {
+            return delegate.findAll();
+        }
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.REPOSITORY)) {
+            delegate.update(itemId, updateParam);
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        delegate.clearStore();
+    }
+}
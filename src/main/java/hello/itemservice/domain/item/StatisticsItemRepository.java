@@ -0,0 +1,93 @@
+package hello.itemservice.domain.item;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 저장/수정 때 마다 ItemStatistics 를 증분 갱신하는 데코레이터
+ *
+ * 수정 전 값을 읽어야 하므로 백엔드 바로 바깥(지연시간, 캐시 보다 안쪽)에 둔다.
+ * 생성 시 한번만 백엔드 전체를 읽어(findAll) 기존 데이터를 반영한다.
+ * memory 백엔드는 이 시점에 비어있어 비용이 없지만, 데이터가 쌓인 file 백엔드는 모든 파일을 읽으므로
+ * 그 만큼 컨텍스트 기동이 늦어진다. 이후 saveAll, loadAll(시드 적재)은 저장한 항목만 증분 반영한다.
+ * update 는 수정 전 값 읽기 -> 백엔드 수정 -> 통계 반영을 id 별 lock(stripe) 안에서 처리한다.
+ * 같은 상품을 동시에 수정해도 수정 전 값을 두번 빼는 일 없이 마지막 수정 결과와 통계가 일치한다.
+ */
+public class StatisticsItemRepository implements ItemRepository {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ItemRepository delegate;
+    private final ItemStatistics statistics;
+    private final Object[] updateLocks = new Object[LOCK_STRIPES];
+
+    public StatisticsItemRepository(ItemRepository delegate, ItemStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            updateLocks[i] = new Object();
+        }
+        statistics.reset();
+        for (Item item : delegate.findAll()) {
+            statistics.add(item.getPrice(), item.getQuantity());
+        }
+    }
+
+    @Override
+    public void loadAll(Collection<Item> items) {
+        delegate.loadAll(items);
+        for (Item item : items) {
+            statistics.add(item.getPrice(), item.getQuantity());
+        }
+    }
+
+    @Override
+    public Item save(Item item) {
+        Item savedItem = delegate.save(item);
+        statistics.add(savedItem.getPrice(), savedItem.getQuantity());
+        return savedItem;
+    }
+
+    @Override
+    public void saveAll(Collection<Item> items) {
+        delegate.saveAll(items);
+        for (Item item : items) {
+            statistics.add(item.getPrice(), item.getQuantity());
+        }
+    }
+
+    @Override
+    public Item findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void update(Long itemId, Item updateParam) {
+        synchronized (lockFor(itemId)) {
+            // 메모리 저장소는 저장된 객체를 그대로 수정하므로 수정 전 값을 먼저 꺼내둔다.
+            Item findItem = delegate.findById(itemId);
+            Integer oldPrice = findItem == null ? null : findItem.getPrice();
+            Integer oldQuantity = findItem == null ? null : findItem.getQuantity();
+
+            delegate.update(itemId, updateParam);
+
+            statistics.remove(oldPrice, oldQuantity);
+            statistics.add(updateParam.getPrice(), updateParam.getQuantity());
+        }
+    }
+
+    @Override
+    public void clearStore() {
+        delegate.clearStore();
+        statistics.reset();
+    }
+
+    private Object lockFor(Long itemId) {
+        return updateLocks[(Long.hashCode(itemId) & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+}
@@ -0,0 +1,28 @@
+package hello.itemservice.profile;
+
+/**
+ * 요청 처리 단계
+ */
+public enum ProfileStage {
+
+    /** 인터셉터 preHandle ~ afterCompletion (아래 단계를 모두 포함) */
+    REQUEST,
+    /** WebDataBinder 가 요청 파라미터를 Item 에 바인딩 (@InitBinder ~ 검증 직전) */
+    BINDING,
+    /** ItemValidator.validate */
+    VALIDATION,
+    /** MessageSource.getMessage 1회 (주로 VIEW_RENDERING 안에서 호출된다) */
+    MESSAGE_RESOLUTION,
+    /** 타임리프 뷰 렌더링 (postHandle ~ afterCompletion) */
+    VIEW_RENDERING,
+    /**
+     * ItemRepository 메서드 1회 호출 (요청 스레드 기준)
+     * 상품 등록은 ItemWriteBatcher.save 대기시간(묶음 저장 완료까지)을 이 단계로 잰다.
+     */
+    REPOSITORY,
+    /**
+     * ItemRepository.saveAll 1회 - 주로 item-write-batcher, seed-loader 스레드에서 묶음 단위로 기록된다.
+     * 시간과 할당 바이트는 묶음 전체의 값이며 특정 요청에 속하지 않는다.
+     */
+    BATCH_SAVE
+}
@@ -0,0 +1,53 @@
+package hello.itemservice.profile;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 프로파일링 모드 구성 (itemservice.profiling.enabled=true)
+ *
+ * 비활성화 상태에서는 인터셉터를 등록하지 않고 MessageSource 도 감싸지 않는다.
+ * ItemRepository 는 ItemRepositoryConfig, 검증기는 ValidationItemControllerV2 의 @InitBinder 에서 감싼다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ProfilingConfig implements WebMvcConfigurer {
+
+    private final RequestProfiler requestProfiler;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (requestProfiler.isEnabled()) {
+            registry.addInterceptor(new ProfilingInterceptor(requestProfiler))
+                    .excludePathPatterns("/css/**", "/monitor/**", "/error");
+        }
+    }
+
+    /**
+     * 타임리프의 #{...} 과 오류 메시지는 애플리케이션 컨텍스트를 거쳐 messageSource 빈으로 위임되므로 그 빈을 감싼다.
+     * BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 프로파일러는 지연 조회한다.
+     */
+    @Bean
+    public static BeanPostProcessor profilingMessageSourcePostProcessor(ObjectProvider<RequestProfiler> requestProfiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (AbstractApplicationContext.MESSAGE_SOURCE_BEAN_NAME.equals(beanName)
+                        && bean instanceof MessageSource) {
+                    RequestProfiler profiler = requestProfiler.getObject();
+                    if (profiler.isEnabled()) {
+                        return new ProfilingMessageSource((MessageSource) bean, profiler);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package hello.itemservice.profile;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 전체(REQUEST)와 뷰 렌더링(VIEW_RENDERING) 단계를 잰다.
+ * postHandle 은 컨트롤러 호출 직후 렌더링 전에, afterCompletion 은 렌더링이 끝난 뒤 호출된다.
+ */
+public class ProfilingInterceptor implements HandlerInterceptor {
+
+    private final RequestProfiler profiler;
+
+    public ProfilingInterceptor(RequestProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        profiler.begin(ProfileStage.REQUEST);
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null) {
+            profiler.begin(ProfileStage.VIEW_RENDERING);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        profiler.end(ProfileStage.VIEW_RENDERING);
+        profiler.end(ProfileStage.REQUEST);
+        profiler.clear();
+    }
+}
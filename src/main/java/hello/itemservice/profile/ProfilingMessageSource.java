@@ -0,0 +1,42 @@
+package hello.itemservice.profile;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+
+import java.util.Locale;
+
+/**
+ * MessageSource 데코레이터 - getMessage 1회를 MESSAGE_RESOLUTION 단계로 잰다.
+ */
+public class ProfilingMessageSource implements MessageSource {
+
+    private final MessageSource delegate;
+    private final RequestProfiler profiler;
+
+    public ProfilingMessageSource(MessageSource delegate, RequestProfiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.MESSAGE_RESOLUTION)) {
+            return delegate.getMessage(code, args, defaultMessage, locale);
+        }
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, Locale locale) throws NoSuchMessageException {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.MESSAGE_RESOLUTION)) {
+            return delegate.getMessage(code, args, locale);
+        }
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.MESSAGE_RESOLUTION)) {
+            return delegate.getMessage(resolvable, locale);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package hello.itemservice.profile;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 단계별 JFR 이벤트 (itemservice.profiling.jfr=true)
+ * JFR 녹화 중일 때만 기록된다. ex) -XX:StartFlightRecording=filename=item.jfr
+ */
+@Name("hello.itemservice.ProfilingStage")
+@Label("Request Profiling Stage")
+@Category("Item Service")
+class ProfilingStageEvent extends Event {
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
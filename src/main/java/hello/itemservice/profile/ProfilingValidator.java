@@ -0,0 +1,32 @@
+package hello.itemservice.profile;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * 검증기 데코레이터 - 검증 직전에 BINDING 단계를 끝내고 VALIDATION 단계를 잰다.
+ * WebDataBinder 는 바인딩이 끝나면 바로 검증기를 호출하므로 바인딩 종료 시점으로 쓸 수 있다.
+ */
+public class ProfilingValidator implements Validator {
+
+    private final Validator delegate;
+    private final RequestProfiler profiler;
+
+    public ProfilingValidator(Validator delegate, RequestProfiler profiler) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        profiler.end(ProfileStage.BINDING);
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.VALIDATION)) {
+            delegate.validate(target, errors);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package hello.itemservice.profile;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 요청 단계별 프로파일러 (itemservice.profiling.enabled=true 일 때만 동작)
+ *
+ * 단계마다 경과시간(wall time)과 현재 스레드가 할당한 바이트 수를 재서 StageHistogram 에 모은다.
+ * 사용법
+ * 1. 블록 단위 : try (RequestProfiler.Span span = profiler.start(stage)) { ... }
+ * 2. 시작/종료 지점이 다른 메서드일 때 : begin(stage) ~ end(stage) (스레드 로컬에 보관, 요청 종료시 clear)
+ * 비활성화 상태에서는 아무것도 기록하지 않는 NOOP span 을 돌려준다.
+ */
+@Slf4j
+@Component
+public class RequestProfiler {
+
+    private final boolean enabled;
+    private final boolean jfrEnabled;
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+    private final Map<ProfileStage, StageHistogram> histograms = new EnumMap<>(ProfileStage.class);
+    private final ThreadLocal<Map<ProfileStage, Span>> openSpans =
+            ThreadLocal.withInitial(() -> new EnumMap<>(ProfileStage.class));
+
+    public RequestProfiler(@Value("${itemservice.profiling.enabled:false}") boolean enabled,
+                           @Value("${itemservice.profiling.jfr:false}") boolean jfrEnabled) {
+        this.enabled = enabled;
+        this.jfrEnabled = enabled && jfrEnabled;
+        this.allocationMXBean = enabled ? allocationMXBean() : null;
+        for (ProfileStage stage : ProfileStage.values()) {
+            histograms.put(stage, new StageHistogram());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Span start(ProfileStage stage) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        return new Span(this, stage);
+    }
+
+    public void begin(ProfileStage stage) {
+        if (enabled) {
+            openSpans.get().put(stage, start(stage));
+        }
+    }
+
+    public void end(ProfileStage stage) {
+        if (enabled) {
+            Span span = openSpans.get().remove(stage);
+            if (span != null) {
+                span.close();
+            }
+        }
+    }
+
+    /**
+     * 끝나지 않은 단계(ex. 검증 없이 끝난 바인딩)는 기록하지 않고 버린다.
+     */
+    public void clear() {
+        if (enabled) {
+            openSpans.remove();
+        }
+    }
+
+    public Map<ProfileStage, StageHistogram> getHistograms() {
+        return histograms;
+    }
+
+    private long allocatedBytes() {
+        if (allocationMXBean == null) {
+            return 0;
+        }
+        return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private void record(Span span, long nanos, long allocatedBytes) {
+        histograms.get(span.stage).record(nanos, allocatedBytes);
+        if (span.event != null) {
+            span.event.stage = span.stage.name();
+            span.event.allocatedBytes = allocatedBytes;
+            span.event.commit();
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        }
+        log.warn("스레드별 할당 바이트 측정을 지원하지 않는 JVM 입니다. 할당 바이트는 0 으로 기록됩니다.");
+        return null;
+    }
+
+    public static class Span implements AutoCloseable {
+
+        private static final Span NOOP = new Span();
+
+        private final RequestProfiler profiler;
+        private final ProfileStage stage;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private final ProfilingStageEvent event;
+
+        private Span() {
+            this.profiler = null;
+            this.stage = null;
+            this.startNanos = 0;
+            this.startAllocatedBytes = 0;
+            this.event = null;
+        }
+
+        private Span(RequestProfiler profiler, ProfileStage stage) {
+            this.profiler = profiler;
+            this.stage = stage;
+            this.event = profiler.jfrEnabled ? new ProfilingStageEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            this.startAllocatedBytes = profiler.allocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (profiler == null) {
+                return;
+            }
+            long nanos = System.nanoTime() - startNanos;
+            long allocatedBytes = profiler.allocatedBytes() - startAllocatedBytes;
+            profiler.record(this, nanos, allocatedBytes);
+        }
+    }
+}
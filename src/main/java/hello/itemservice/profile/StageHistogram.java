@@ -0,0 +1,100 @@
+package hello.itemservice.profile;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 소요시간, 할당 바이트 히스토그램
+ *
+ * 값을 2의 거듭제곱 구간(bucket)으로 나눠 세므로 백분위수는 해당 구간의 상한값으로 근사한다. (최대 2배 오차)
+ */
+public class StageHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalAllocatedBytes = new LongAdder();
+    private final LongAdder[] nanosBuckets = newBuckets();
+    private final LongAdder[] allocatedBytesBuckets = newBuckets();
+
+    void record(long nanos, long allocatedBytes) {
+        count.increment();
+        totalNanos.add(nanos);
+        totalAllocatedBytes.add(allocatedBytes);
+        nanosBuckets[bucketOf(nanos)].increment();
+        allocatedBytesBuckets[bucketOf(allocatedBytes)].increment();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMeanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : totalNanos.sum() / 1000.0 / n;
+    }
+
+    public double getP50Micros() {
+        return percentile(nanosBuckets, 0.50) / 1000.0;
+    }
+
+    public double getP99Micros() {
+        return percentile(nanosBuckets, 0.99) / 1000.0;
+    }
+
+    public long getMeanAllocatedBytes() {
+        long n = count.sum();
+        return n == 0 ? 0 : totalAllocatedBytes.sum() / n;
+    }
+
+    public long getP50AllocatedBytes() {
+        return percentile(allocatedBytesBuckets, 0.50);
+    }
+
+    public long getP99AllocatedBytes() {
+        return percentile(allocatedBytesBuckets, 0.99);
+    }
+
+    private static long percentile(LongAdder[] buckets, double quantile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     * bucket i 는 [2^(i-1), 2^i) 구간의 값을 센다. (bucket 0 은 0 이하)
+     */
+    private static int bucketOf(long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket == 0 ? 0 : bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    private static LongAdder[] newBuckets() {
+        LongAdder[] buckets = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,30 @@
+package hello.itemservice.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 리소스 캐시 헤더
+ *
+ * 컨텐츠 해시가 붙은 URL(bootstrap.min-{md5}.css)은 내용이 바뀌면 URL 도 바뀌므로 1년간 immutable 로 캐시한다.
+ * 해시가 없는 URL 은 매번 ETag/Last-Modified 로 재검증(no-cache)하게 한다.
+ * 스프링 5.3 의 CacheControl 에는 immutable 지시자가 없어 헤더를 직접 쓴다.
+ */
+public class StaticResourceCacheInterceptor implements HandlerInterceptor {
+
+    private static final Pattern VERSIONED = Pattern.compile(".+-[0-9a-f]{32}\\.[^/]+$");
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean versioned = VERSIONED.matcher(request.getRequestURI()).matches();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, versioned ? IMMUTABLE : REVALIDATE);
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package hello.itemservice.web.monitor;
+
+import hello.itemservice.BulkDataInit;
+import hello.itemservice.FirstRequestTimer;
+import hello.itemservice.domain.item.ItemCacheStats;
+import hello.itemservice.domain.item.ItemStatistics;
+import hello.itemservice.domain.item.ItemWriteBatcher;
+import hello.itemservice.profile.ProfileStage;
+import hello.itemservice.profile.RequestProfiler;
+import hello.itemservice.profile.StageHistogram;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 운영 상태 조회용 API
+ */
+@RestController
+@RequestMapping("/monitor")
+@RequiredArgsConstructor
+public class MonitorController {
+
+    private final ApplicationAvailability applicationAvailability;
+    private final ObjectProvider<BulkDataInit> bulkDataInit;
+    private final ObjectProvider<FirstRequestTimer> firstRequestTimer;
+    private final ItemCacheStats itemCacheStats;
+    private final ItemWriteBatcher itemWriteBatcher;
+    private final ItemStatistics itemStatistics;
+    private final RequestProfiler requestProfiler;
+
+    /**
+     * 시드 데이터 적재 상태 - fast 프로필이 아니면 readiness 만 보고한다.
+     */
+    @GetMapping("/seed")
+    public Map<String, Object> seed() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("readiness", applicationAvailability.getReadinessState());
+        bulkDataInit.ifAvailable(init -> {
+            result.put("loaded", init.isLoaded());
+            result.put("loadedCount", init.getLoadedCount());
+            result.put("totalCount", init.getTotalCount());
+            result.put("loadMillis", init.getLoadMillis());
+            result.put("failure", init.getFailure());
+        });
+        firstRequestTimer.ifAvailable(timer ->
+                result.put("timeToFirstRequestMillis", timer.getTimeToFirstRequestMillis()));
+        return result;
+    }
+
+    /**
+     * near-cache 적중률, 백엔드 로딩 지연시간
+     */
+    @GetMapping("/cache")
+    public ItemCacheStats cache() {
+        return itemCacheStats;
+    }
+
+    /**
+     * 상품 등록 묶음 처리 - 평균 묶음 크기가 1 에 가까우면 묶이지 않고 있다는 뜻이다.
+     */
+    @GetMapping("/batch")
+    public Map<String, Object> batch() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("batchCount", itemWriteBatcher.getBatchCount());
+        result.put("itemCount", itemWriteBatcher.getItemCount());
+        result.put("averageBatchSize", itemWriteBatcher.getAverageBatchSize());
+        return result;
+    }
+
+    /**
+     * 상품 통계 (건수, 재고 금액 합계, 최소/최대 가격, 가격대별 건수) - findAll 없이 O(1) 로 응답한다.
+     */
+    @GetMapping("/stats")
+    public ItemStatistics stats() {
+        return itemStatistics;
+    }
+
+    /**
+     * 요청 단계별 소요시간, 할당 바이트 히스토그램 - itemservice.profiling.enabled=true 일 때만 채워진다.
+     */
+    @GetMapping("/profile")
+    public Map<ProfileStage, StageHistogram> profile() {
+        return requestProfiler.getHistograms();
+    }
+}
@@ -2,6 +2,10 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemWriteBatcher;
+import hello.itemservice.profile.ProfileStage;
+import hello.itemservice.profile.ProfilingValidator;
+import hello.itemservice.profile.RequestProfiler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -27,6 +31,8 @@ public class ValidationItemControllerV2 {
 
     private final ItemRepository itemRepository;
     private final ItemValidator itemValidator;
+    private final ItemWriteBatcher itemWriteBatcher;
+    private final RequestProfiler requestProfiler;
 
     /**
      * WebDataBinder : 스프링의 파라미터 바인딩의 역할을 해주고 검증 기능도 내부에 포함한다.
@@ -36,10 +42,20 @@ public class ValidationItemControllerV2 {
      * @Validated 애노테이션이 붙으면 WebDataBinder에 등록한 검증기를 찾아 실행한다.
      * 여러 검증기를 등록한 경우 검증기의 supports가 호출되어 매개변수 Class를 통해 구분한다.
      * 이때의 클래스는 @ModelAttribute의 클래스가 넘어간다.
+     *
+     * 프로파일링 모드 : @InitBinder 는 바인딩 직전에 호출되므로 여기서 BINDING 단계를 시작하고,
+     * 검증기를 ProfilingValidator 로 감싸 검증 직전에 BINDING 을 끝낸다.
      */
     @InitBinder
     public void init(WebDataBinder dataBinder) {
-        dataBinder.addValidators(itemValidator);
+        if (!requestProfiler.isEnabled()) {
+            dataBinder.addValidators(itemValidator);
+            return;
+        }
+        if (dataBinder.getTarget() instanceof Item) {
+            requestProfiler.begin(ProfileStage.BINDING);
+        }
+        dataBinder.addValidators(new ProfilingValidator(itemValidator, requestProfiler));
     }
     @GetMapping
     public String items(Model model) {
@@ -75,8 +91,12 @@ public class ValidationItemControllerV2 {
             return "validation/v2/addForm";
         }
 
-        //성공 로직
-        Item savedItem = itemRepository.save(item);
+        //성공 로직 - 동시에 들어온 등록 요청과 묶어서 저장한다. (ItemWriteBatcher)
+        //실제 saveAll 은 묶음 처리 스레드에서 일어나므로 이 요청의 저장 단계는 여기서 잰다.
+        Item savedItem;
+        try (RequestProfiler.Span span = requestProfiler.start(ProfileStage.REPOSITORY)) {
+            savedItem = itemWriteBatcher.save(item);
+        }
         redirectAttributes.addAttribute("itemId", savedItem.getId());
         redirectAttributes.addAttribute("status", true);
         return "redirect:/validation/v2/items/{itemId}";
@@ -0,0 +1,81 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.ItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * fast 프로필 기동 측정 (시드 100만건)
+ *
+ * 실행 : ITEMSERVICE_BENCHMARK=true ./gradlew test --tests hello.itemservice.BulkDataInitBenchmarkTest -i
+ * time-to-first-request 는 JVM 시작 기준이므로 테스트 엔진 기동 시간이 포함된 상한값이다.
+ * 운영과 같은 조건의 측정은 bootJar 로 한다.
+ *   ./gradlew bootJar
+ *   java -jar build/libs/validation-0.0.1-SNAPSHOT.jar --spring.profiles.active=fast &
+ *   until curl -sf -o /dev/null localhost:8080/validation/v2/items/add; do sleep 0.05; done
+ *   curl -s localhost:8080/monitor/seed   # timeToFirstRequestMillis, loadMillis
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "ITEMSERVICE_BENCHMARK", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "itemservice.seed.file=${java.io.tmpdir}/item-seed-benchmark.bin",
+        "itemservice.seed.count=1000000"
+})
+@ActiveProfiles("fast")
+class BulkDataInitBenchmarkTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+    @Autowired
+    BulkDataInit bulkDataInit;
+    @Autowired
+    FirstRequestTimer firstRequestTimer;
+    @Autowired
+    ApplicationAvailability applicationAvailability;
+    @Autowired
+    ItemRepository itemRepository;
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void timeToFirstRequest() throws InterruptedException {
+        //when
+        ResponseEntity<String> response = restTemplate.getForEntity("/validation/v2/items/add", String.class);
+        long timeToFirstRequest = firstRequestTimer.getTimeToFirstRequestMillis();
+        boolean loadedAtFirstRequest = bulkDataInit.isLoaded();
+        ReadinessState readinessAtFirstRequest = applicationAvailability.getReadinessState();
+        if (!bulkDataInit.isLoaded()) {
+            assertThat(readinessAtFirstRequest).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        }
+
+        long deadline = System.currentTimeMillis() + 120_000;
+        while (!bulkDataInit.isLoaded() && bulkDataInit.getFailure() == null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        //then
+        log.info("time-to-first-request={}ms, loadedAtFirstRequest={}, seedLoad={}ms, count={}",
+                timeToFirstRequest, loadedAtFirstRequest, bulkDataInit.getLoadMillis(), bulkDataInit.getLoadedCount());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(timeToFirstRequest).isPositive();
+        assertThat(bulkDataInit.getFailure()).isNull();
+        assertThat(bulkDataInit.getLoadedCount()).isEqualTo(1_000_000);
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}
@@ -0,0 +1,44 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemSeedFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generateAndRead() throws IOException {
+        //given
+        Path seedFile = tempDir.resolve("item-seed.bin");
+        ItemSeedFile.generate(seedFile, 25);
+
+        //when
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        int count = ItemSeedFile.read(seedFile, 10, chunk -> {
+            chunkSizes.add(chunk.size());
+            items.addAll(chunk);
+        });
+
+        //then
+        assertThat(count).isEqualTo(25);
+        assertThat(ItemSeedFile.count(seedFile)).isEqualTo(25);
+        assertThat(chunkSizes).containsExactly(10, 10, 5);
+        assertThat(items.get(0).getItemName()).isEqualTo("item0");
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getPrice()).isBetween(1000, 1000000);
+            assertThat(item.getQuantity()).isLessThanOrEqualTo(9999);
+            assertThat(item.getPrice() * item.getQuantity()).isGreaterThanOrEqualTo(10000);
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MemoryItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SeedAwareApplicationAvailabilityTest {
+
+    @TempDir
+    Path tempDir;
+
+    ItemRepository itemRepository = new MemoryItemRepository();
+    SeedAwareApplicationAvailability availability;
+    BulkDataInit bulkDataInit;
+
+    @BeforeEach
+    void beforeEach() {
+        // BulkDataInit 이 발행하는 이벤트는 스프링과 같이 availability 빈으로 전달한다.
+        bulkDataInit = new BulkDataInit(itemRepository,
+                event -> availability.onApplicationEvent((AvailabilityChangeEvent<?>) event));
+        availability = new SeedAwareApplicationAvailability(bulkDataInit);
+        ReflectionTestUtils.setField(bulkDataInit, "seedFile", tempDir.resolve("item-seed.bin"));
+        ReflectionTestUtils.setField(bulkDataInit, "seedCount", 100);
+        ReflectionTestUtils.setField(bulkDataInit, "chunkSize", 10);
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void refusingUntilLoaded() {
+        //when - 스프링 부트가 기동 직후 ACCEPTING_TRAFFIC 을 발행한다.
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        //then
+        assertThat(bulkDataInit.isLoaded()).isFalse();
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        assertThat(availability.getLastChangeEvent(ReadinessState.class)).isNull();
+    }
+
+    @Test
+    void acceptingAfterLoaded() {
+        //given
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        //when
+        bulkDataInit.load();
+
+        //then
+        assertThat(bulkDataInit.isLoaded()).isTrue();
+        assertThat(bulkDataInit.getLoadedCount()).isEqualTo(100);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    void refusingWhenLoadingFails() {
+        //given - 시드 파일 경로가 디렉토리이면 읽을 수 없다.
+        ReflectionTestUtils.setField(bulkDataInit, "seedFile", tempDir);
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        //when
+        bulkDataInit.load();
+
+        //then
+        assertThat(bulkDataInit.getFailure()).isNotNull();
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+    }
+}
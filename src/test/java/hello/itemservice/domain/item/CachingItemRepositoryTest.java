@@ -0,0 +1,167 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CachingItemRepositoryTest {
+
+    AtomicInteger backendCalls = new AtomicInteger();
+
+    ItemRepository backend = new DelayedItemRepository(new MemoryItemRepository() {
+        @Override
+        public Item findById(Long id) {
+            backendCalls.incrementAndGet();
+            return super.findById(id);
+        }
+    }, Duration.ofMillis(50));
+
+    ItemCacheStats stats = new ItemCacheStats();
+    CachingItemRepository itemRepository = new CachingItemRepository(backend, stats, 100, Duration.ofMinutes(10));
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void readThrough() {
+        //given
+        Item savedItem = backend.save(new Item("itemA", 10000, 10));
+
+        //when
+        itemRepository.findById(savedItem.getId());
+        itemRepository.findById(savedItem.getId());
+
+        //then
+        assertThat(backendCalls.get()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void singleFlight() throws Exception {
+        //given
+        Item savedItem = backend.save(new Item("itemA", 10000, 10));
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<CompletableFuture<Item>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return itemRepository.findById(savedItem.getId());
+            }, executor));
+        }
+        start.countDown();
+
+        //then
+        for (CompletableFuture<Item> result : results) {
+            assertThat(result.get().getId()).isEqualTo(savedItem.getId());
+        }
+        assertThat(backendCalls.get()).isEqualTo(1);
+        assertThat(stats.getLoadCount()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void saveWritesThrough() {
+        //when
+        Item savedItem = itemRepository.save(new Item("itemA", 10000, 10));
+        Item findItem = itemRepository.findById(savedItem.getId());
+
+        //then
+        assertThat(findItem).isEqualTo(savedItem);
+        assertThat(backendCalls.get()).isEqualTo(0);
+    }
+
+    @Test
+    void loadAllDoesNotFillCache() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+
+        //when
+        itemRepository.loadAll(List.of(item));
+        Item findItem = itemRepository.findById(item.getId());
+
+        //then - 대량 적재된 항목은 처음 조회할 때 백엔드에서 읽는다.
+        assertThat(findItem).isEqualTo(item);
+        assertThat(backendCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void updateInvalidates() {
+        //given
+        Item savedItem = itemRepository.save(new Item("itemA", 10000, 10));
+
+        //when
+        itemRepository.update(savedItem.getId(), new Item("itemB", 20000, 20));
+        Item findItem = itemRepository.findById(savedItem.getId());
+
+        //then
+        assertThat(backendCalls.get()).isEqualTo(1);
+        assertThat(findItem.getItemName()).isEqualTo("itemB");
+        assertThat(findItem.getPrice()).isEqualTo(20000);
+    }
+
+    @Test
+    void concurrentMissesLoadOncePerId() throws Exception {
+        //given - 지연 없는 백엔드에서 여러 스레드가 같은 순서로 miss 를 일으킨다.
+        AtomicInteger calls = new AtomicInteger();
+        ItemRepository fastBackend = new MemoryItemRepository() {
+            @Override
+            public Item findById(Long id) {
+                calls.incrementAndGet();
+                return super.findById(id);
+            }
+        };
+        CachingItemRepository cache = new CachingItemRepository(fastBackend, new ItemCacheStats(), 10000, Duration.ofMinutes(10));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(fastBackend.save(new Item("item" + i, 10000, 10)).getId());
+        }
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (Long id : ids) {
+                    assertThat(cache.findById(id).getId()).isEqualTo(id);
+                }
+            }, executor));
+        }
+        start.countDown();
+        for (CompletableFuture<Void> result : results) {
+            result.get();
+        }
+
+        //then
+        assertThat(calls.get()).isEqualTo(ids.size());
+        executor.shutdown();
+    }
+}
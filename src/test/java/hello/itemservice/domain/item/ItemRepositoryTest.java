@@ -9,7 +9,7 @@ import static org.assertj.core.api.Assertions.*;
 
 class ItemRepositoryTest {
 
-    ItemRepository itemRepository = new ItemRepository();
+    ItemRepository itemRepository = new MemoryItemRepository();
 
     @AfterEach
     void afterEach() {
@@ -65,4 +65,19 @@ class ItemRepositoryTest {
         assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
     }
+
+    @Test
+    void saveAll() {
+        //given
+        Item item1 = new Item("item1", 10000, 10);
+        Item item2 = new Item("item2", 20000, 20);
+
+        //when
+        itemRepository.saveAll(List.of(item1, item2));
+
+        //then
+        assertThat(item2.getId()).isEqualTo(item1.getId() + 1);
+        assertThat(itemRepository.findById(item1.getId())).isEqualTo(item1);
+        assertThat(itemRepository.findAll()).containsExactlyInAnyOrder(item1, item2);
+    }
 }
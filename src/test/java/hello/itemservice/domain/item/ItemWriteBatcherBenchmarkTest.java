@@ -0,0 +1,122 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 상품 등록 : 한건씩 저장 vs ItemWriteBatcher 묶음 저장 비교
+ *
+ * 저장소는 커밋(save/saveAll 1회)마다 1ms 가 걸리고 커밋끼리는 순서대로 처리된다고 가정한다. (단일 writer + fsync)
+ * 실행 : ITEMSERVICE_BENCHMARK=true ./gradlew test --tests hello.itemservice.domain.item.ItemWriteBatcherBenchmarkTest -i
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "ITEMSERVICE_BENCHMARK", matches = "true")
+class ItemWriteBatcherBenchmarkTest {
+
+    static final int THREADS = 32;
+    static final int SAVES_PER_THREAD = 100;
+
+    ItemRepository itemRepository = new SerialCommitItemRepository(new MemoryItemRepository(), Duration.ofMillis(1));
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void compare() throws Exception {
+        Result oneAtATime = run(itemRepository::save);
+        Result batched;
+        try (ItemWriteBatcher itemWriteBatcher = new ItemWriteBatcher(itemRepository, 64, Duration.ofNanos(300_000))) {
+            batched = run(itemWriteBatcher::save);
+        }
+
+        log.info("one-at-a-time : {}", oneAtATime);
+        log.info("batched       : {}", batched);
+        assertThat(batched.throughput).isGreaterThan(oneAtATime.throughput);
+    }
+
+    private Result run(UnaryOperator<Item> save) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] latencies = new long[SAVES_PER_THREAD];
+                for (int i = 0; i < SAVES_PER_THREAD; i++) {
+                    long begin = System.nanoTime();
+                    save.apply(new Item("item", 10000, 10));
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        long[] all = new long[THREADS * SAVES_PER_THREAD];
+        int index = 0;
+        for (Future<long[]> future : futures) {
+            for (long latency : future.get()) {
+                all[index++] = latency;
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        Arrays.sort(all);
+        return new Result(all.length * 1_000_000_000.0 / elapsed,
+                all[all.length / 2] / 1_000_000.0, all[all.length * 99 / 100] / 1_000_000.0);
+    }
+
+    static class Result {
+        final double throughput;
+        final double p50Millis;
+        final double p99Millis;
+
+        Result(double throughput, double p50Millis, double p99Millis) {
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f saves/s, p50=%.2fms, p99=%.2fms", throughput, p50Millis, p99Millis);
+        }
+    }
+
+    /**
+     * 커밋마다 고정 비용이 들고 커밋이 직렬화되는 저장소
+     */
+    static class SerialCommitItemRepository extends DelayedItemRepository {
+
+        SerialCommitItemRepository(ItemRepository delegate, Duration commitCost) {
+            super(delegate, commitCost);
+        }
+
+        @Override
+        public synchronized Item save(Item item) {
+            return super.save(item);
+        }
+
+        @Override
+        public synchronized void saveAll(Collection<Item> items) {
+            super.saveAll(items);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemWriteBatcherTest {
+
+    ItemRepository itemRepository = new DelayedItemRepository(new MemoryItemRepository(), Duration.ofMillis(5));
+    ItemWriteBatcher itemWriteBatcher = new ItemWriteBatcher(itemRepository, 16, Duration.ofMillis(1));
+
+    @AfterEach
+    void afterEach() {
+        itemWriteBatcher.close();
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void save() {
+        //when
+        Item savedItem = itemWriteBatcher.save(new Item("itemA", 10000, 10));
+
+        //then
+        assertThat(savedItem.getId()).isNotNull();
+        assertThat(itemRepository.findById(savedItem.getId())).isEqualTo(savedItem);
+    }
+
+    @Test
+    void burstIsBatched() {
+        //given
+        int count = 100;
+
+        //when
+        List<CompletableFuture<Item>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            results.add(itemWriteBatcher.submit(new Item("item" + i, 10000, 10)));
+        }
+        Set<Long> ids = results.stream()
+                .map(CompletableFuture::join)
+                .map(Item::getId)
+                .collect(Collectors.toSet());
+
+        //then
+        // 메모리 저장소는 static 이라 다른 테스트의 데이터가 섞일 수 있으므로 전체 건수 대신 돌려받은 id 로 확인한다.
+        assertThat(ids).hasSize(count);
+        assertThat(ids).allSatisfy(id -> assertThat(itemRepository.findById(id)).isNotNull());
+        assertThat(itemWriteBatcher.getItemCount()).isEqualTo(count);
+        assertThat(itemWriteBatcher.getBatchCount()).isLessThan(count);
+    }
+
+    @Test
+    void closedBatcherRejects() {
+        //when
+        itemWriteBatcher.close();
+
+        //then
+        assertThatThrownBy(() -> itemWriteBatcher.submit(new Item("itemA", 10000, 10)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void invalidBatchSizeRejected() {
+        assertThatThrownBy(() -> new ItemWriteBatcher(new MemoryItemRepository(), 0, Duration.ofMillis(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void batchedSaveWritesThroughCache() {
+        //given
+        AtomicInteger backendCalls = new AtomicInteger();
+        ItemRepository backend = new DelayedItemRepository(new MemoryItemRepository() {
+            @Override
+            public Item findById(Long id) {
+                backendCalls.incrementAndGet();
+                return super.findById(id);
+            }
+        }, Duration.ofMillis(5));
+        CachingItemRepository cache = new CachingItemRepository(backend, new ItemCacheStats(), 100, Duration.ofMinutes(10));
+        ItemWriteBatcher cachingBatcher = new ItemWriteBatcher(cache, 16, Duration.ofMillis(1));
+
+        //when
+        Item savedItem = cachingBatcher.save(new Item("itemA", 10000, 10));
+        Item findItem = cache.findById(savedItem.getId());
+        cachingBatcher.close();
+
+        //then - 등록 직후 상세 조회(redirect)는 백엔드를 거치지 않는다.
+        assertThat(findItem).isEqualTo(savedItem);
+        assertThat(backendCalls.get()).isZero();
+    }
+}
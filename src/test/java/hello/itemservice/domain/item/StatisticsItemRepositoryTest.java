@@ -0,0 +1,104 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StatisticsItemRepositoryTest {
+
+    ItemStatistics statistics = new ItemStatistics();
+    ItemRepository itemRepository = new StatisticsItemRepository(new MemoryItemRepository(), statistics);
+
+    @BeforeEach
+    void beforeEach() {
+        // 메모리 저장소는 static 이므로 다른 테스트가 남긴 데이터를 지운다.
+        itemRepository.clearStore();
+    }
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void save() {
+        //when
+        itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.saveAll(List.of(new Item("itemB", 5000, 4), new Item("itemC", 600000, 1)));
+
+        //then
+        assertThat(statistics.getCount()).isEqualTo(3);
+        assertThat(statistics.getTotalStockValue()).isEqualTo(10000 * 10 + 5000 * 4 + 600000);
+        assertThat(statistics.getMinPrice()).isEqualTo(5000);
+        assertThat(statistics.getMaxPrice()).isEqualTo(600000);
+        assertThat(statistics.getPriceBands())
+                .containsEntry("0~10000", 1L)
+                .containsEntry("10000~50000", 1L)
+                .containsEntry("500000~", 1L);
+    }
+
+    @Test
+    void update() {
+        //given
+        Item itemA = itemRepository.save(new Item("itemA", 1000, 10));
+        itemRepository.save(new Item("itemB", 20000, 20));
+
+        //when
+        itemRepository.update(itemA.getId(), new Item("itemA", 30000, 1));
+
+        //then
+        assertThat(statistics.getCount()).isEqualTo(2);
+        assertThat(statistics.getTotalStockValue()).isEqualTo(20000 * 20 + 30000);
+        assertThat(statistics.getMinPrice()).isEqualTo(20000);
+        assertThat(statistics.getMaxPrice()).isEqualTo(30000);
+        assertThat(statistics.getPriceBands())
+                .containsEntry("0~10000", 0L)
+                .containsEntry("10000~50000", 2L);
+    }
+
+    @Test
+    void clearStore() {
+        //given
+        itemRepository.save(new Item("itemA", 10000, 10));
+
+        //when
+        itemRepository.clearStore();
+
+        //then
+        assertThat(statistics.getCount()).isZero();
+        assertThat(statistics.getTotalStockValue()).isZero();
+        assertThat(statistics.getMinPrice()).isNull();
+    }
+
+    @Test
+    void concurrentUpdateOfSameItem() {
+        //given - 수정 전 값 읽기와 수정 사이에 틈이 생기도록 느린 백엔드를 사용한다.
+        ItemStatistics slowStatistics = new ItemStatistics();
+        ItemRepository slowRepository = new StatisticsItemRepository(
+                new DelayedItemRepository(new MemoryItemRepository(), Duration.ofMillis(20)), slowStatistics);
+        slowRepository.clearStore();
+        Item item = slowRepository.save(new Item("itemA", 5000, 10));
+
+        //when
+        CompletableFuture<Void> update1 = CompletableFuture.runAsync(
+                () -> slowRepository.update(item.getId(), new Item("itemA", 20000, 10)));
+        CompletableFuture<Void> update2 = CompletableFuture.runAsync(
+                () -> slowRepository.update(item.getId(), new Item("itemA", 30000, 10)));
+        CompletableFuture.allOf(update1, update2).join();
+
+        //then - 통계는 실제로 저장된 마지막 값과 일치한다.
+        Item stored = slowRepository.findById(item.getId());
+        assertThat(slowStatistics.getCount()).isEqualTo(1);
+        assertThat(slowStatistics.getTotalStockValue()).isEqualTo((long) stored.getPrice() * stored.getQuantity());
+        assertThat(slowStatistics.getMinPrice()).isEqualTo(stored.getPrice());
+        assertThat(slowStatistics.getMaxPrice()).isEqualTo(stored.getPrice());
+        assertThat(slowStatistics.getPriceBands().values()).allSatisfy(count -> assertThat(count).isNotNegative());
+        assertThat(slowStatistics.getPriceBands().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,59 @@
+package hello.itemservice.profile;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RequestProfilerTest {
+
+    @Test
+    void recordSpan() {
+        //given
+        RequestProfiler profiler = new RequestProfiler(true, false);
+
+        //when
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.VALIDATION)) {
+            List<byte[]> garbage = new ArrayList<>();
+            garbage.add(new byte[64 * 1024]);
+        }
+
+        //then
+        StageHistogram histogram = profiler.getHistograms().get(ProfileStage.VALIDATION);
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getMeanAllocatedBytes()).isGreaterThanOrEqualTo(64 * 1024);
+        assertThat(histogram.getP99AllocatedBytes()).isGreaterThanOrEqualTo(histogram.getMeanAllocatedBytes());
+    }
+
+    @Test
+    void unfinishedStageIsDiscarded() {
+        //given
+        RequestProfiler profiler = new RequestProfiler(true, false);
+
+        //when
+        profiler.begin(ProfileStage.BINDING);
+        profiler.clear();
+        profiler.end(ProfileStage.BINDING);
+
+        //then
+        assertThat(profiler.getHistograms().get(ProfileStage.BINDING).getCount()).isZero();
+    }
+
+    @Test
+    void disabled() {
+        //given
+        RequestProfiler profiler = new RequestProfiler(false, false);
+
+        //when
+        try (RequestProfiler.Span span = profiler.start(ProfileStage.REPOSITORY)) {
+            profiler.begin(ProfileStage.BINDING);
+            profiler.end(ProfileStage.BINDING);
+        }
+
+        //then
+        assertThat(profiler.getHistograms().values())
+                .allSatisfy(histogram -> assertThat(histogram.getCount()).isZero());
+    }
+}
@@ -0,0 +1,42 @@
+package hello.itemservice.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StaticResourceCacheInterceptorTest {
+
+    StaticResourceCacheInterceptor interceptor = new StaticResourceCacheInterceptor();
+
+    @Test
+    void hashedUrlIsImmutable() {
+        //given
+        MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/css/bootstrap.min-0123456789abcdef0123456789abcdef.css");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        boolean proceed = interceptor.preHandle(request, response, null);
+
+        //then
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL))
+                .isEqualTo("public, max-age=31536000, immutable");
+    }
+
+    @Test
+    void unhashedUrlIsRevalidated() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/css/bootstrap.min.css");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, null);
+
+        //then
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+}
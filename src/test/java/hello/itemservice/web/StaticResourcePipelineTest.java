@@ -0,0 +1,74 @@
+package hello.itemservice.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 정적 리소스 파이프라인 전체 확인
+ * 템플릿이 해시 URL 을 렌더링하고 -> 그 URL 을 gzip 으로 요청하면 빌드 때 만든 .gz 가 immutable 헤더와 함께 나간다.
+ * .gz 는 processResources 에서 만들어지므로 gradle test 로 실행해야 한다.
+ * HTML 의 동적 압축(server.compression)은 Tomcat 이 하므로 MockMvc 에서는 확인할 수 없어 크기만 남긴다.
+ */
+@Slf4j
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticResourcePipelineTest {
+
+    private static final Pattern HASHED_CSS = Pattern.compile("/css/bootstrap\\.min-[0-9a-f]{32}\\.css");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void hashedUrlServesPrecompressedGzip() throws Exception {
+        //given
+        String html = mockMvc.perform(get("/validation/v2/items/add"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Matcher matcher = HASHED_CSS.matcher(html);
+        assertThat(matcher.find()).as("렌더링된 HTML 에 해시 URL 이 있어야 한다.").isTrue();
+        String hashedUrl = matcher.group();
+
+        //when
+        byte[] body = mockMvc.perform(get(hashedUrl).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //then
+        byte[] precompressed = StreamUtils.copyToByteArray(
+                new ClassPathResource("static/css/bootstrap.min.css.gz").getInputStream());
+        assertThat(body).isEqualTo(precompressed);
+
+        byte[] htmlBytes = html.getBytes(StandardCharsets.UTF_8);
+        log.info("html={}B (gzip {}B), css={}B (gzip {}B, 재방문 0B)", htmlBytes.length, gzip(htmlBytes).length,
+                new ClassPathResource("static/css/bootstrap.min.css").contentLength(), body.length);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}